@@ -8,12 +8,19 @@ import java.awt.geom.Arc2D;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
 
 public class FieldPanel extends JPanel {
 
     private BufferedImage backgroundImage;
+    private boolean backgroundLoading = true;
+    private boolean firstPaintMarked;
     private CalculationResult lastResult;
 
+    // 原始场地图为 4096x4096，解码后缩放到屏幕的设备像素尺寸（含 HiDPI 缩放）以内再用于绘制
+    private static CompletableFuture<BufferedImage> backgroundFuture;
+
     // 场地尺寸和目标点
     private static final double FIELD_WIDTH_M = 3.66;
     private static final double FIELD_HEIGHT_M = 3.66;
@@ -21,16 +28,77 @@ public class FieldPanel extends JPanel {
     private static final double TARGET_Y_M = 0.1;
 
     public FieldPanel() {
-        String imagePath = "/Field.png";
+        preloadBackground().whenComplete((image, error) -> SwingUtilities.invokeLater(() -> {
+            if (error != null) {
+                Throwable cause = error;
+                while (cause.getCause() != null) cause = cause.getCause();
+                System.err.println("场地图片加载失败: " + cause.getMessage());
+            }
+            backgroundImage = image;
+            backgroundLoading = false;
+            repaint();
+        }));
+    }
+
+    /**
+     * 在后台线程开始解码并缩放场地图片，可在界面创建之前提前调用。多次调用只会加载一次。
+     */
+    public static synchronized CompletableFuture<BufferedImage> preloadBackground() {
+        if (backgroundFuture == null) {
+            backgroundFuture = CompletableFuture.supplyAsync(() -> {
+                long startNanos = System.nanoTime();
+                BufferedImage image = downscale(loadBackground("/Field.png"), maxScreenDevicePixels());
+                StartupTimer.mark("场地图片加载", startNanos);
+                return image;
+            });
+        }
+        return backgroundFuture;
+    }
+
+    private static BufferedImage loadBackground(String imagePath) {
         try (InputStream is = FieldPanel.class.getResourceAsStream(imagePath)) {
             if (is == null) throw new IOException("无法在 resources 文件夹中找到图片: " + imagePath);
-            backgroundImage = ImageIO.read(is);
+            BufferedImage image = ImageIO.read(is);
+            if (image == null) throw new IOException("无法解码图片: " + imagePath);
+            return image;
         } catch (IOException e) {
-            System.err.println("场地图片加载失败: " + e.getMessage());
-            backgroundImage = null;
+            throw new UncheckedIOException(e);
         }
     }
 
+    // 面板最大不会超过屏幕，因此按所有屏幕中最大的设备像素边长确定缩放上限；无法获取屏幕信息时不缩放
+    private static int maxScreenDevicePixels() {
+        if (GraphicsEnvironment.isHeadless()) return Integer.MAX_VALUE;
+        int maxSize = 0;
+        for (GraphicsDevice device : GraphicsEnvironment.getLocalGraphicsEnvironment().getScreenDevices()) {
+            GraphicsConfiguration config = device.getDefaultConfiguration();
+            Rectangle bounds = config.getBounds();
+            double scale = Math.max(config.getDefaultTransform().getScaleX(), config.getDefaultTransform().getScaleY());
+            maxSize = Math.max(maxSize, (int) Math.ceil(Math.max(bounds.width, bounds.height) * scale));
+        }
+        return maxSize > 0 ? maxSize : Integer.MAX_VALUE;
+    }
+
+    // 逐步减半缩放，避免一次大比例缩放带来的锯齿
+    private static BufferedImage downscale(BufferedImage src, int maxSize) {
+        BufferedImage result = src;
+        int w = src.getWidth();
+        int h = src.getHeight();
+        int type = src.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        while (Math.max(w, h) > maxSize) {
+            double ratio = Math.max(0.5, (double) maxSize / Math.max(w, h));
+            w = Math.max(1, (int) Math.round(w * ratio));
+            h = Math.max(1, (int) Math.round(h * ratio));
+            BufferedImage next = new BufferedImage(w, h, type);
+            Graphics2D g2d = next.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.drawImage(result, 0, 0, w, h, null);
+            g2d.dispose();
+            result = next;
+        }
+        return result;
+    }
+
     public void updateLaunchData(CalculationResult result) {
         this.lastResult = result;
         repaint();
@@ -39,6 +107,10 @@ public class FieldPanel extends JPanel {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        if (!firstPaintMarked) {
+            firstPaintMarked = true;
+            StartupTimer.mark("窗口显示");
+        }
         Graphics2D g2d = (Graphics2D) g;
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
@@ -49,7 +121,7 @@ public class FieldPanel extends JPanel {
             g2d.setColor(Color.DARK_GRAY);
             g2d.fillRect(0, 0, getWidth(), getHeight());
             g2d.setColor(Color.WHITE);
-            g2d.drawString("场地图片 (Field.png) 加载失败", 50, 50);
+            g2d.drawString(backgroundLoading ? "场地图片加载中..." : "场地图片 (Field.png) 加载失败", 50, 50);
         }
         Point targetPx = metersToPixels(TARGET_X_M, TARGET_Y_M);
         g2d.setColor(Color.RED);
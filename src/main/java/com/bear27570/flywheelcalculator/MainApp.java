@@ -80,6 +80,7 @@ public class MainApp {
         mainSplitPane.setLeftComponent(leftPanel);
         mainSplitPane.setRightComponent(fieldPanel);
         mainSplitPane.setDividerLocation(350);
+        StartupTimer.mark("构建界面");
 
         launcherTypeCombo.addActionListener(e -> toggleSingleFlywheelParams());
         calculateButton.addActionListener(e -> calculateAndDisplay());
@@ -131,8 +132,12 @@ public class MainApp {
     }
 
     public static void main(String[] args) {
+        // 场地图片在后台解码，与主题设置和界面构建并行进行；尽早开始，放在计时之前
+        FieldPanel.preloadBackground();
+        StartupTimer.mark("进入 main");
         SwingUtilities.invokeLater(() -> {
             ThemeManager.applyBlueBlackTheme();
+            StartupTimer.mark("应用主题");
             new MainApp().createAndShowGUI();
         });
     }
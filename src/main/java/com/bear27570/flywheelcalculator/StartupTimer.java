@@ -0,0 +1,54 @@
+// StartupTimer.java
+package com.bear27570.flywheelcalculator;
+
+import java.time.Instant;
+
+/**
+ * 启动阶段计时工具。
+ * 使用 -Dflywheel.startupTiming=true 启动时，会在控制台输出每个启动阶段的耗时，
+ * 用于验证冷启动优化效果并发现性能回退。累计耗时从进程启动开始计算，包含 JVM 启动时间。
+ */
+public final class StartupTimer {
+    private static final boolean ENABLED = Boolean.getBoolean("flywheel.startupTiming");
+    // 仅在开启计时时查询进程启动时刻，避免默认启动时的额外开销
+    private static final long START_NANOS = ENABLED ? processStartNanos() : 0L;
+    private static long lastNanos = START_NANOS;
+
+    private StartupTimer() {
+    }
+
+    /**
+     * 记录一个顺序执行的启动阶段（如 EDT 上的各步骤）的结束时间点，耗时为距上一次 mark 的时间。
+     */
+    public static synchronized void mark(String phase) {
+        if (!ENABLED) return;
+        long now = System.nanoTime();
+        print(phase, now - lastNanos, now);
+        lastNanos = now;
+    }
+
+    /**
+     * 记录一个与其他阶段并行执行的任务（如后台线程），耗时为从 startNanos 到现在的时间。
+     * 不影响顺序阶段的计时。
+     */
+    public static synchronized void mark(String phase, long startNanos) {
+        if (!ENABLED) return;
+        long now = System.nanoTime();
+        print(phase, now - startNanos, now);
+    }
+
+    private static void print(String phase, long elapsedNanos, long now) {
+        System.out.printf("[启动计时] %-12s %6.1f ms (累计 %7.1f ms) [%s]%n",
+                phase, elapsedNanos / 1e6, (now - START_NANOS) / 1e6, Thread.currentThread().getName());
+    }
+
+    // 将进程启动时刻换算到 System.nanoTime 的时间轴上；无法获取时退回到类加载时刻
+    private static long processStartNanos() {
+        long nowNanos = System.nanoTime();
+        long nowMillis = System.currentTimeMillis();
+        return ProcessHandle.current().info().startInstant()
+                .map(Instant::toEpochMilli)
+                .map(startMillis -> nowNanos - Math.max(0, nowMillis - startMillis) * 1_000_000L)
+                .orElse(nowNanos);
+    }
+}
@@ -4,7 +4,9 @@ package com.bear27570.flywheelcalculator;
 import javax.swing.*;
 import javax.swing.border.LineBorder;
 import java.awt.*;
-import java.util.Enumeration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 public class ThemeManager {
 
@@ -58,13 +60,25 @@ public class ThemeManager {
         setUIFont(new javax.swing.plaf.FontUIResource(getCrossPlatformFont()));
     }
 
+    /**
+     * 只替换字体相关的条目。直接读取原始值，避免 UIManager.get 对每个键都创建惰性资源（图标、边框等）。
+     */
     private static void setUIFont(javax.swing.plaf.FontUIResource f) {
-        Enumeration<Object> keys = UIManager.getDefaults().keys();
-        while (keys.hasMoreElements()) {
-            Object key = keys.nextElement();
-            Object value = UIManager.get(key);
-            if (value instanceof javax.swing.plaf.FontUIResource)
-                UIManager.put(key, f);
+        UIDefaults defaults = UIManager.getDefaults();
+        List<Object> fontKeys = new ArrayList<>();
+        for (Map.Entry<Object, Object> entry : defaults.entrySet()) {
+            Object key = entry.getKey();
+            Object value = entry.getValue();
+            if (value instanceof javax.swing.plaf.FontUIResource) {
+                fontKeys.add(key);
+            } else if ((value instanceof UIDefaults.LazyValue || value instanceof UIDefaults.ActiveValue)
+                    && key instanceof String && ((String) key).toLowerCase().contains("font")
+                    && UIManager.get(key) instanceof javax.swing.plaf.FontUIResource) {
+                fontKeys.add(key);
+            }
+        }
+        for (Object key : fontKeys) {
+            UIManager.put(key, f);
         }
     }
 }
\ No newline at end of file